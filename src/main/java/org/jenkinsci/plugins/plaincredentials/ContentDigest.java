@@ -0,0 +1,94 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jenkinsci.plugins.plaincredentials;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Util;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import javax.crypto.Mac;
+import jenkins.security.HMACConfidentialKey;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Computes the keyed digests exposed by {@link FileCredentials#getContentDigest()} and
+ * {@link StringCredentials#getSecretDigest()}.
+ * The key is specific to the Jenkins instance, so digests cannot be used to guess short secrets elsewhere.
+ */
+@Restricted(NoExternalUse.class)
+public final class ContentDigest {
+
+    /**
+     * The HMAC key.
+     */
+    private static final HMACConfidentialKey KEY = new HMACConfidentialKey(ContentDigest.class, "key");
+
+    private ContentDigest() {
+    }
+
+    /**
+     * Digests some content.
+     *
+     * @param content the plain content.
+     * @return the hex encoded HMAC-SHA256.
+     */
+    @NonNull
+    public static String of(@NonNull byte[] content) {
+        // a Mac per call, as HMACConfidentialKey.mac is synchronized
+        return Util.toHexString(KEY.createMac().doFinal(content));
+    }
+
+    /**
+     * Digests some text, encoded as UTF-8.
+     *
+     * @param content the plain text.
+     * @return the hex encoded HMAC-SHA256.
+     */
+    @NonNull
+    public static String of(@NonNull String content) {
+        return of(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Digests a stream of content, without holding all of it in memory.
+     *
+     * @param content the plain content, which is read to its end but not closed.
+     * @return the hex encoded HMAC-SHA256.
+     * @throws IOException if the content cannot be read.
+     */
+    @NonNull
+    public static String of(@NonNull InputStream content) throws IOException {
+        Mac mac = KEY.createMac();
+        byte[] buffer = new byte[8192];
+        int n;
+        while ((n = content.read(buffer)) != -1) {
+            mac.update(buffer, 0, n);
+        }
+        return Util.toHexString(mac.doFinal());
+    }
+
+}
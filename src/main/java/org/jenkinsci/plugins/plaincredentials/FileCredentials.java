@@ -30,10 +30,14 @@ import com.cloudbees.plugins.credentials.common.StandardCredentials;
 import hudson.Util;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
 
 /**
  * Credentials consisting of a secret file.
+ * Implementations must allow their content to be read from many threads at once.
  */
 @NameWith(FileCredentials.NameProvider.class)
 public interface FileCredentials extends StandardCredentials {
@@ -47,14 +51,57 @@ public interface FileCredentials extends StandardCredentials {
 
     /**
      * Obtains the actual content of the secret file as a bytestream.
+     * Each call returns an independent stream, which is not itself thread-safe.
+     * Callers should close the stream as soon as they are done with it,
+     * as implementations may use that to release or wipe the plain content.
      * @return some binary data
      * @throws IOException if the data cannot be loaded
      */
     @NonNull InputStream getContent() throws IOException;
 
+    /**
+     * Obtains the size of the secret file content.
+     * The default implementation reads through {@link #getContent()},
+     * so implementations which know the size up front should override it.
+     * @return the number of bytes in the content
+     * @throws IOException if the data cannot be loaded
+     * @since TODO
+     */
+    default long getContentLength() throws IOException {
+        try (InputStream is = getContent()) {
+            return is.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    /**
+     * Obtains a keyed digest of the secret file content.
+     * Two credentials on the same Jenkins instance have the same digest exactly when their content is the same,
+     * so this can be used to detect changes without comparing the plain content.
+     * The default implementation reads through {@link #getContent()}.
+     * @return a hex encoded HMAC-SHA256 of the content
+     * @throws IOException if the data cannot be loaded
+     * @since TODO
+     */
+    default @NonNull String getContentDigest() throws IOException {
+        try (InputStream is = getContent()) {
+            return ContentDigest.of(is);
+        }
+    }
+
     class NameProvider extends CredentialsNameProvider<FileCredentials> {
 
         @Override public String getName(FileCredentials c) {
+            return computeName(c);
+        }
+
+        /**
+         * Computes the name from the file name and description.
+         *
+         * @param c the credentials
+         * @return the file name, followed by the description if there is one
+         */
+        @Restricted(NoExternalUse.class)
+        public static @NonNull String computeName(@NonNull FileCredentials c) {
             String description = Util.fixEmptyAndTrim(c.getDescription());
             return c.getFileName() + (description != null ? " (" + description + ")" : "");
         }
@@ -32,10 +32,14 @@ import hudson.util.Secret;
 
 import java.util.UUID;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
 
 /**
  * Credentials consisting only of a single secret, such as a password or token.
+ * Implementations must allow their secret to be read from many threads at once.
  */
 @NameWith(StringCredentials.NameProvider.class)
 public interface StringCredentials extends StandardCredentials {
@@ -46,27 +50,69 @@ public interface StringCredentials extends StandardCredentials {
      */
     @NonNull Secret getSecret();
 
+    /**
+     * Obtains a keyed digest of the secret.
+     * Two credentials on the same Jenkins instance have the same digest exactly when their secret is the same,
+     * so this can be used to detect changes without comparing the plain text.
+     * @return a hex encoded HMAC-SHA256 of the secret, encoded as UTF-8
+     * @since TODO
+     */
+    default @NonNull String getSecretDigest() {
+        return ContentDigest.of(getSecret().getPlainText());
+    }
+
     class NameProvider extends CredentialsNameProvider<StringCredentials> {
 
         @Override public String getName(StringCredentials c) {
+            return orDefault(computeName(c));
+        }
+
+        /**
+         * Computes the part of the name which does not depend on the current locale.
+         *
+         * @param c the credentials
+         * @return the description, else the ID unless it has UUID format, else {@code null}
+         */
+        @Restricted(NoExternalUse.class)
+        public static @CheckForNull String computeName(@NonNull StringCredentials c) {
             String description = Util.fixEmptyAndTrim(c.getDescription());
             String ID = c.getId();
-            return description != null ? description : (!isUUID(ID) ? ID : Messages.StringCredentials_string_credentials());
+            return description != null ? description : (!isUUID(ID) ? ID : null);
+        }
+
+        /**
+         * Completes a name from {@link #computeName} with the localized default.
+         *
+         * @param name the computed name, if any
+         * @return the name to display
+         */
+        @Restricted(NoExternalUse.class)
+        public static @NonNull String orDefault(@CheckForNull String name) {
+            return name != null ? name : Messages.StringCredentials_string_credentials();
         }
 
         /**
-         * Checks whether an ID has UUID format
+         * Checks whether an ID has UUID format, without the cost of {@link UUID#fromString} throwing for every
+         * ID which does not.
          * 
          * @param ID the ID to check
-         * @return true if the ID has UUID format. False otherwise.
+         * @return true if the ID has the canonical UUID format. False otherwise.
          */
         private static boolean isUUID(String ID) {
-            try {
-                UUID.fromString(ID);
-                return true;
-            } catch (IllegalArgumentException ex) {
+            if (ID.length() != 36) {
                 return false;
             }
+            for (int i = 0; i < 36; i++) {
+                char ch = ID.charAt(i);
+                if (i == 8 || i == 13 || i == 18 || i == 23) {
+                    if (ch != '-') {
+                        return false;
+                    }
+                } else if (!(ch >= '0' && ch <= '9' || ch >= 'a' && ch <= 'f' || ch >= 'A' && ch <= 'F')) {
+                    return false;
+                }
+            }
+            return true;
         }
     }
 
@@ -0,0 +1,177 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jenkinsci.plugins.plaincredentials;
+
+import com.cloudbees.plugins.credentials.CredentialsParameterValue;
+import com.cloudbees.plugins.credentials.CredentialsProvider;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Cause;
+import hudson.model.Item;
+import hudson.model.ItemGroup;
+import hudson.model.ParameterValue;
+import hudson.model.ParametersAction;
+import hudson.model.Run;
+import hudson.model.User;
+import hudson.security.ACL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.security.core.Authentication;
+
+/**
+ * Resolves many {@link StringCredentials} by ID at once, for callers which would otherwise look each one up separately.
+ * The secrets of the returned credentials are already decrypted, so reading them costs nothing further.
+ *
+ * @since TODO
+ */
+public final class StringCredentialsLookup {
+
+    private StringCredentialsLookup() {
+    }
+
+    /**
+     * Resolves {@link StringCredentials} available to an item, scanning its credentials once rather than once per ID.
+     * Only the credentials visible to the given authentication in the context of the item are considered; unlike
+     * {@link #lookup(Run, Collection)}, credentials parameters and user-scoped credentials are not.
+     *
+     * @param item           the item in whose context to look up.
+     * @param authentication the authentication to look up as.
+     * @param ids            the IDs to resolve.
+     * @return the credentials found, keyed by ID; IDs which could not be resolved are absent.
+     */
+    @NonNull
+    public static Map<String, StringCredentials> lookup(@NonNull Item item, @NonNull Authentication authentication,
+                                                        @NonNull Collection<String> ids) {
+        return byId(CredentialsProvider.lookupCredentialsInItem(StringCredentials.class, item, authentication, List.of()), ids);
+    }
+
+    /**
+     * Resolves {@link StringCredentials} available to an item group, scanning its credentials once rather than once
+     * per ID. Only the credentials visible to the given authentication in the context of the item group are
+     * considered.
+     *
+     * @param itemGroup      the item group in whose context to look up.
+     * @param authentication the authentication to look up as.
+     * @param ids            the IDs to resolve.
+     * @return the credentials found, keyed by ID; IDs which could not be resolved are absent.
+     */
+    @NonNull
+    public static Map<String, StringCredentials> lookup(@NonNull ItemGroup<?> itemGroup, @NonNull Authentication authentication,
+                                                        @NonNull Collection<String> ids) {
+        return byId(CredentialsProvider.lookupCredentialsInItemGroup(StringCredentials.class, itemGroup, authentication, List.of()), ids);
+    }
+
+    /**
+     * Resolves {@link StringCredentials} for a build, following the rules of
+     * {@link CredentialsProvider#findCredentialById(String, Class, Run, List)}: IDs naming a credentials parameter of
+     * the build are resolved through that parameter, the user-scoped credentials of the user who triggered the build
+     * are considered for parameters they supplied, and the use of the credentials found is tracked against the build.
+     * The parameters are read once, and each source of credentials is scanned at most once for all IDs.
+     *
+     * @param run the build in whose context to look up.
+     * @param ids the IDs to resolve.
+     * @return the credentials found, keyed by requested ID; IDs which could not be resolved are absent.
+     */
+    @NonNull
+    public static Map<String, StringCredentials> lookup(@NonNull Run<?, ?> run, @NonNull Collection<String> ids) {
+        ParametersAction parameters = run.getAction(ParametersAction.class);
+        // the ID of the credentials each requested ID stands for
+        Map<String, String> targets = new LinkedHashMap<>();
+        // the targets which may also be found among the credentials of the triggering user
+        Set<String> userTargets = new HashSet<>();
+        for (String id : ids) {
+            String name = id.trim();
+            boolean parameter = false;
+            if (name.startsWith("${") && name.endsWith("}")) {
+                name = name.substring(2, name.length() - 1);
+                parameter = true;
+            }
+            String target = name;
+            boolean defaultValue = false;
+            ParameterValue value = parameters != null ? parameters.getParameter(name) : null;
+            if (value instanceof CredentialsParameterValue) {
+                parameter = true;
+                defaultValue = ((CredentialsParameterValue) value).isDefaultValue();
+                target = ((CredentialsParameterValue) value).getValue();
+            }
+            if (target == null) {
+                continue;
+            }
+            targets.put(id, target);
+            if (parameter && !defaultValue) {
+                userTargets.add(target);
+            }
+        }
+        Map<String, StringCredentials> found = byId(CredentialsProvider.lookupCredentialsInItem(StringCredentials.class,
+                run.getParent(), ACL.SYSTEM2, List.of()), targets.values());
+        userTargets.removeAll(found.keySet());
+        if (!userTargets.isEmpty()) {
+            Cause.UserIdCause cause = run.getCause(Cause.UserIdCause.class);
+            String userId = cause != null ? cause.getUserId() : null;
+            User user = userId != null ? User.getById(userId, false) : null;
+            if (user != null) {
+                Authentication authentication = user.impersonate2();
+                if (run.getParent().hasPermission2(authentication, CredentialsProvider.USE_OWN)) {
+                    found.putAll(byId(CredentialsProvider.lookupCredentialsInItem(StringCredentials.class,
+                            run.getParent(), authentication, List.of()), userTargets));
+                }
+            }
+        }
+        Map<String, StringCredentials> result = new LinkedHashMap<>();
+        for (Map.Entry<String, String> target : targets.entrySet()) {
+            StringCredentials c = found.get(target.getValue());
+            if (c != null) {
+                result.put(target.getKey(), c);
+            }
+        }
+        if (!found.isEmpty()) {
+            CredentialsProvider.trackAll(run, new ArrayList<>(found.values()));
+        }
+        return result;
+    }
+
+    /**
+     * Keeps the first credentials for each wanted ID, in the order the providers returned them.
+     */
+    @NonNull
+    private static Map<String, StringCredentials> byId(@NonNull List<StringCredentials> credentials, @NonNull Collection<String> ids) {
+        Set<String> wanted = new HashSet<>(ids);
+        Map<String, StringCredentials> result = new LinkedHashMap<>();
+        for (StringCredentials c : credentials) {
+            if (wanted.contains(c.getId())) {
+                result.putIfAbsent(c.getId(), c);
+                if (result.size() == wanted.size()) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+}
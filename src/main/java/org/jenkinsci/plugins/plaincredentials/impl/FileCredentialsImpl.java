@@ -24,7 +24,9 @@
 
 package org.jenkinsci.plugins.plaincredentials.impl;
 
+import com.cloudbees.plugins.credentials.CredentialsNameProvider;
 import com.cloudbees.plugins.credentials.CredentialsScope;
+import com.cloudbees.plugins.credentials.NameWith;
 import com.cloudbees.plugins.credentials.SecretBytes;
 import com.cloudbees.plugins.credentials.impl.BaseStandardCredentials;
 import hudson.Extension;
@@ -41,9 +43,11 @@ import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import jenkins.security.CryptoConfidentialKey;
 import org.apache.commons.fileupload.FileItem;
+import org.jenkinsci.plugins.plaincredentials.ContentDigest;
 import org.jenkinsci.plugins.plaincredentials.FileCredentials;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.DoNotUse;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
 import org.kohsuke.stapler.DataBoundConstructor;
 
 /**
@@ -51,6 +55,7 @@ import org.kohsuke.stapler.DataBoundConstructor;
  *
  * @since 1.0
  */
+@NameWith(FileCredentialsImpl.NameProviderImpl.class)
 public final class FileCredentialsImpl extends BaseStandardCredentials implements FileCredentials {
 
     /**
@@ -80,6 +85,25 @@ public final class FileCredentialsImpl extends BaseStandardCredentials implement
      */
     @NonNull
     private final SecretBytes secretBytes;
+    /**
+     * The length of the plain content, if known without decrypting {@link #secretBytes}.
+     */
+    @CheckForNull
+    private transient volatile Long contentLength;
+    /**
+     * Memoized {@link FileCredentials.NameProvider#computeName}, safe since the file name and description never change.
+     */
+    @CheckForNull
+    private transient volatile String computedName;
+    /**
+     * The keyed digest of the plain content, once computed.
+     */
+    @CheckForNull
+    private transient volatile String contentDigest;
+    /**
+     * Whether this instance was converted from the legacy {@link #data} field while loading.
+     */
+    private transient boolean migrated;
     /**
      * The legacy encrypted version of the secret bytes.
      */
@@ -109,7 +133,9 @@ public final class FileCredentialsImpl extends BaseStandardCredentials implement
         String name = file.getName();
         if (name.length() > 0) {
             this.fileName = name.replaceFirst("^.+[/\\\\]", "");
-            this.secretBytes = SecretBytes.fromBytes(file.get());
+            byte[] content = file.get();
+            this.secretBytes = SecretBytes.fromBytes(content);
+            this.contentLength = (long) content.length;
         } else {
             this.fileName = fileName;
             this.secretBytes = SecretBytes.fromString(data);
@@ -122,7 +148,7 @@ public final class FileCredentialsImpl extends BaseStandardCredentials implement
         }
         if (LOGGER.isLoggable(Level.FINE)) {
             LOGGER.log(Level.FINE, "for {0} have {1} of length {2} after upload of ‘{3}’",
-                    new Object[]{getId(), this.fileName, this.secretBytes.getPlainData().length, name});
+                    new Object[]{getId(), this.fileName, contentLength != null ? contentLength : "unknown", name});
         }
     }
 
@@ -145,7 +171,10 @@ public final class FileCredentialsImpl extends BaseStandardCredentials implement
         String name = file != null ? file.getName() : "";
         if (name.length() > 0) {
             this.fileName = name.replaceFirst("^.+[/\\\\]", "");
-            this.secretBytes = SecretBytes.fromRawBytes(file.get());
+            byte[] content = file.get();
+            this.secretBytes = SecretBytes.fromRawBytes(content);
+            this.contentLength = (long) content.length;
+            this.contentDigest = ContentDigest.of(content);
         } else {
             if (secretBytes == null) {
                 throw new IllegalArgumentException("No content provided or resolved.");
@@ -161,7 +190,7 @@ public final class FileCredentialsImpl extends BaseStandardCredentials implement
         }
         if (LOGGER.isLoggable(Level.FINE)) {
             LOGGER.log(Level.FINE, "for {0} have {1} of length {2} after upload of ‘{3}’",
-                    new Object[]{getId(), this.fileName, this.secretBytes.getPlainData().length, name});
+                    new Object[]{getId(), this.fileName, contentLength != null ? contentLength : "unknown", name});
         }
     }
 
@@ -195,8 +224,12 @@ public final class FileCredentialsImpl extends BaseStandardCredentials implement
         if (data != null) {
             // migrate legacy data
             try {
-                return new FileCredentialsImpl(getScope(), getId(), getDescription(), fileName,
+                long start = System.nanoTime();
+                FileCredentialsImpl converted = new FileCredentialsImpl(getScope(), getId(), getDescription(), fileName,
                         SecretBytes.fromBytes(KEY.decrypt().doFinal(data)));
+                converted.migrated = true;
+                LegacyDataMigration.migrated(getId(), System.nanoTime() - start);
+                return converted;
             } catch (GeneralSecurityException e1) {
                 InvalidObjectException e2 = new InvalidObjectException(e1.toString());
                 e2.initCause(e1);
@@ -206,6 +239,16 @@ public final class FileCredentialsImpl extends BaseStandardCredentials implement
         return this;
     }
 
+    /**
+     * Checks whether this instance was converted from the legacy format while loading, and so still needs to be
+     * saved in the new format.
+     *
+     * @return {@code true} if this instance was migrated.
+     */
+    boolean isMigrated() {
+        return migrated;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -214,6 +257,37 @@ public final class FileCredentialsImpl extends BaseStandardCredentials implement
         return fileName;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getContentLength() {
+        Long length = contentLength;
+        if (length == null) {
+            PlainDataCache.PlainData plain = PlainDataCache.get().getPlainData(secretBytes);
+            length = (long) plain.bytes.length;
+            contentLength = length;
+            plain.wipe();
+        }
+        return length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getContentDigest() {
+        String digest = contentDigest;
+        if (digest == null) {
+            PlainDataCache.PlainData plain = PlainDataCache.get().getPlainData(secretBytes);
+            digest = ContentDigest.of(plain.bytes);
+            contentLength = (long) plain.bytes.length;
+            contentDigest = digest;
+            plain.wipe();
+        }
+        return digest;
+    }
+
     /**
      * Exposes the encrypted content to jelly.
      *
@@ -229,7 +303,126 @@ public final class FileCredentialsImpl extends BaseStandardCredentials implement
      */
     @Override
     public InputStream getContent() throws IOException {
-        return new ByteArrayInputStream(secretBytes.getPlainData());
+        return new PlainDataInputStream(secretBytes, contentLength);
+    }
+
+    /**
+     * A stream over the plain data of some {@link SecretBytes} which only decrypts once it is first read from, so that
+     * callers which open the content and then discard it do not pay for a full decrypt. Closing the stream wipes the
+     * plain data, unless it is shared with the {@link PlainDataCache}.
+     */
+    private static final class PlainDataInputStream extends InputStream {
+
+        /**
+         * The encrypted content, cleared once decrypted.
+         */
+        @CheckForNull
+        private SecretBytes secretBytes;
+        /**
+         * The decrypted content, created on first access.
+         */
+        @CheckForNull
+        private ByteArrayInputStream delegate;
+        /**
+         * The plain data behind {@link #delegate}.
+         */
+        @CheckForNull
+        private PlainDataCache.PlainData plainData;
+        /**
+         * The length of the plain data, if known without decrypting.
+         */
+        @CheckForNull
+        private final Long contentLength;
+
+        PlainDataInputStream(@NonNull SecretBytes secretBytes, @CheckForNull Long contentLength) {
+            this.secretBytes = secretBytes;
+            this.contentLength = contentLength;
+        }
+
+        @NonNull
+        private ByteArrayInputStream delegate() throws IOException {
+            if (delegate == null) {
+                if (secretBytes == null) {
+                    throw new IOException("Stream closed");
+                }
+                plainData = PlainDataCache.get().getPlainData(secretBytes);
+                delegate = new ByteArrayInputStream(plainData.bytes);
+                secretBytes = null;
+            }
+            return delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return delegate().read();
+        }
+
+        @Override
+        public int read(@NonNull byte[] b, int off, int len) throws IOException {
+            return delegate().read(b, off, len);
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            return delegate().skip(n);
+        }
+
+        @Override
+        public int available() throws IOException {
+            if (delegate == null && secretBytes != null && contentLength != null) {
+                return (int) Math.min(contentLength, Integer.MAX_VALUE);
+            }
+            return delegate().available();
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public void mark(int readlimit) {
+            // mark cannot throw, so it does not decrypt; until then the position is 0, where the delegate's mark starts
+            if (delegate != null) {
+                delegate.mark(readlimit);
+            }
+        }
+
+        @Override
+        public void reset() throws IOException {
+            delegate().reset();
+        }
+
+        @Override
+        public void close() {
+            if (plainData != null) {
+                plainData.wipe();
+                plainData = null;
+            }
+            secretBytes = null;
+            delegate = null;
+        }
+    }
+
+    /**
+     * Names credentials like {@link FileCredentials.NameProvider}, reusing the memoized {@link #computedName}.
+     */
+    @Restricted(NoExternalUse.class)
+    public static class NameProviderImpl extends CredentialsNameProvider<FileCredentialsImpl> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getName(FileCredentialsImpl c) {
+            String name = c.computedName;
+            if (name == null) {
+                name = FileCredentials.NameProvider.computeName(c);
+                c.computedName = name;
+            }
+            return name;
+        }
+
     }
 
     /**
@@ -0,0 +1,151 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jenkinsci.plugins.plaincredentials.impl;
+
+import com.cloudbees.plugins.credentials.Credentials;
+import com.cloudbees.plugins.credentials.CredentialsProvider;
+import com.cloudbees.plugins.credentials.CredentialsStore;
+import com.cloudbees.plugins.credentials.SystemCredentialsProvider;
+import com.cloudbees.plugins.credentials.domains.Domain;
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
+import hudson.model.Item;
+import hudson.model.ModelObject;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.model.Jenkins;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Keeps track of {@link FileCredentialsImpl} instances migrated from the legacy {@code data} field while loading, and
+ * makes sure the stores holding them get persisted in the migrated form so that later startups skip the legacy path.
+ */
+@Restricted(NoExternalUse.class)
+public final class LegacyDataMigration {
+
+    /**
+     * Our logger.
+     */
+    private static final Logger LOGGER = Logger.getLogger(LegacyDataMigration.class.getName());
+    /**
+     * How many credentials have been migrated since the last report.
+     */
+    private static final AtomicInteger MIGRATED = new AtomicInteger();
+    /**
+     * How long those migrations took in total.
+     */
+    private static final AtomicLong MIGRATION_NANOS = new AtomicLong();
+    /**
+     * The instance for which the startup report has been made, after which migrations are logged one by one.
+     */
+    private static volatile Jenkins reported;
+
+    private LegacyDataMigration() {
+    }
+
+    /**
+     * Records the migration of one credential.
+     *
+     * @param id    the id of the migrated credential.
+     * @param nanos the time taken to migrate it.
+     */
+    static void migrated(String id, long nanos) {
+        if (reported != null && reported == Jenkins.getInstanceOrNull()) {
+            // loaded after startup, e.g. a folder reload, so there will be no report to include it in
+            LOGGER.log(Level.INFO, "Secret file credentials {0} were migrated from the legacy format after startup and will be persisted in the new format when their owner is next saved",
+                    id);
+            return;
+        }
+        int count = MIGRATED.incrementAndGet();
+        MIGRATION_NANOS.addAndGet(nanos);
+        LOGGER.log(Level.FINE, "migrated {0} from the legacy format ({1} so far)", new Object[]{id, count});
+    }
+
+    /**
+     * Once all items have been loaded, reports on any migration and saves every store, be it the system store or the
+     * store of an item such as a folder, which holds migrated credentials.
+     */
+    @Initializer(after = InitMilestone.JOB_CONFIG_ADAPTED)
+    public static void persistMigratedCredentials() {
+        Jenkins jenkins = Jenkins.get();
+        // ensure credentials.xml has been loaded before looking at the counters
+        SystemCredentialsProvider.getInstance();
+        int count = MIGRATED.getAndSet(0);
+        long nanos = MIGRATION_NANOS.getAndSet(0);
+        reported = jenkins;
+        if (count == 0) {
+            return;
+        }
+        int persisted = persistStoresOf(jenkins);
+        for (Item item : jenkins.allItems()) {
+            persisted += persistStoresOf(item);
+        }
+        LOGGER.log(Level.INFO, "Migrated {0} secret file credentials from the legacy format in {1} ms, persisting {2} of them",
+                new Object[]{count, TimeUnit.NANOSECONDS.toMillis(nanos), persisted});
+        if (count > persisted) {
+            LOGGER.log(Level.INFO, "{0} migrated secret file credentials, such as those of users, will be persisted in the new format when their owner is next saved",
+                    count - persisted);
+        }
+    }
+
+    /**
+     * Saves the stores of a context which hold migrated credentials.
+     *
+     * @param context the context whose own stores to save.
+     * @return the number of migrated credentials persisted.
+     */
+    private static int persistStoresOf(ModelObject context) {
+        int persisted = 0;
+        for (CredentialsStore store : CredentialsProvider.lookupStores(context)) {
+            if (store.getContext() != context) {
+                // inherited from a parent, which is saved on its own
+                continue;
+            }
+            int migrated = 0;
+            for (Domain domain : store.getDomains()) {
+                for (Credentials c : store.getCredentials(domain)) {
+                    if (c instanceof FileCredentialsImpl && ((FileCredentialsImpl) c).isMigrated()) {
+                        migrated++;
+                    }
+                }
+            }
+            if (migrated > 0) {
+                try {
+                    store.save();
+                    persisted += migrated;
+                } catch (IOException e) {
+                    LOGGER.log(Level.WARNING, "Could not persist migrated secret file credentials of " + context.getDisplayName(), e);
+                }
+            }
+        }
+        return persisted;
+    }
+
+}
@@ -0,0 +1,377 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.jenkinsci.plugins.plaincredentials.impl;
+
+import com.cloudbees.plugins.credentials.CredentialsStore;
+import com.cloudbees.plugins.credentials.SecretBytes;
+import com.cloudbees.plugins.credentials.SystemCredentialsProvider;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.XmlFile;
+import hudson.model.ItemGroup;
+import hudson.model.PeriodicWork;
+import hudson.model.Saveable;
+import hudson.model.User;
+import hudson.model.listeners.SaveableListener;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import jenkins.util.SystemProperties;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * An optional cache of decrypted {@link SecretBytes} content, bounded both in time and in total size.
+ * <p>
+ * Entries are keyed by the identity of the {@link SecretBytes} instance. Credentials are immutable, so updating a
+ * credential always replaces its {@link SecretBytes} and a stale value can never be served. Expired entries are purged
+ * every minute and whenever a new entry is added, and the whole cache is cleared whenever something which may hold
+ * credentials is saved, so that the plain text of replaced or deleted credentials does not linger. The cache is
+ * disabled unless the {@code enabled} system property is set, as it keeps plain text on the heap for longer than a
+ * single read.
+ */
+@Restricted(NoExternalUse.class)
+public final class PlainDataCache {
+
+    /**
+     * The cache in use.
+     */
+    private static volatile PlainDataCache instance = new PlainDataCache(
+            SystemProperties.getBoolean(PlainDataCache.class.getName() + ".enabled"),
+            SystemProperties.getLong(PlainDataCache.class.getName() + ".ttlMillis", TimeUnit.MINUTES.toMillis(5)),
+            SystemProperties.getLong(PlainDataCache.class.getName() + ".maxBytes", 64L * 1024 * 1024),
+            System::nanoTime);
+
+    /**
+     * Whether decrypted content is cached at all.
+     */
+    private final boolean enabled;
+    /**
+     * How long an entry may be served after it was decrypted.
+     */
+    private final long ttlNanos;
+    /**
+     * The upper bound on the total number of plain bytes held by the cache.
+     */
+    private final long maxBytes;
+    /**
+     * The source of {@link System#nanoTime()}.
+     */
+    private final LongSupplier clock;
+    /**
+     * The entries. Hits only read this map, so that concurrent readers never contend on a lock.
+     */
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    /**
+     * Serializes changes to {@link #entries}.
+     */
+    private final Object lock = new Object();
+    /**
+     * The total number of plain bytes in {@link #entries}. Guarded by {@link #lock}.
+     */
+    private long totalBytes;
+    /**
+     * Incremented by every {@link #clear()}, so that a decrypt which was in flight during a clear does not put back
+     * plain text which may belong to a credential that has just been updated or deleted. Written under {@link #lock}.
+     */
+    private volatile long generation;
+
+    PlainDataCache(boolean enabled, long ttlMillis, long maxBytes, @NonNull LongSupplier clock) {
+        this.enabled = enabled;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.maxBytes = maxBytes;
+        this.clock = clock;
+    }
+
+    /**
+     * Obtains the cache in use.
+     *
+     * @return the cache.
+     */
+    @NonNull
+    static PlainDataCache get() {
+        return instance;
+    }
+
+    /**
+     * Replaces the cache in use with an empty one, overriding the system properties.
+     *
+     * @param enabled   whether to cache at all.
+     * @param ttlMillis how long an entry may be served after it was decrypted.
+     * @param maxBytes  the upper bound on the total number of plain bytes held.
+     */
+    public static void configure(boolean enabled, long ttlMillis, long maxBytes) {
+        instance = new PlainDataCache(enabled, ttlMillis, maxBytes, System::nanoTime);
+    }
+
+    /**
+     * Obtains the plain data of some {@link SecretBytes}, decrypting only if there is no live cache entry.
+     *
+     * @param secretBytes the encrypted content.
+     * @return the plain data, which callers must {@linkplain PlainData#wipe() wipe} once done with it.
+     */
+    @NonNull
+    PlainData getPlainData(@NonNull SecretBytes secretBytes) {
+        if (!enabled) {
+            return new PlainData(secretBytes.getPlainData(), false);
+        }
+        Key key = new Key(secretBytes);
+        long observed = generation;
+        Entry cached = entries.get(key);
+        if (cached != null) {
+            long now = clock.getAsLong();
+            if (now - cached.expiresAt < 0) {
+                cached.lastAccess = now;
+                return new PlainData(cached.data, true);
+            }
+            synchronized (lock) {
+                remove(key, cached);
+            }
+        }
+        byte[] data = secretBytes.getPlainData();
+        if (data.length > maxBytes) {
+            return new PlainData(data, false);
+        }
+        long now = clock.getAsLong();
+        synchronized (lock) {
+            if (generation != observed) {
+                // cleared while we were decrypting, so the credential may be gone
+                return new PlainData(data, false);
+            }
+            purgeExpired(now);
+            Entry previous = entries.put(key, new Entry(data, now, now + ttlNanos));
+            if (previous != null) {
+                totalBytes -= previous.data.length;
+            }
+            totalBytes += data.length;
+            while (totalBytes > maxBytes) {
+                // an approximate LRU: scanning is cheap next to decrypting, and keeps hits free of any bookkeeping
+                Map.Entry<Key, Entry> oldest = null;
+                for (Map.Entry<Key, Entry> e : entries.entrySet()) {
+                    if (!e.getKey().equals(key)
+                            && (oldest == null || e.getValue().lastAccess - oldest.getValue().lastAccess < 0)) {
+                        oldest = e;
+                    }
+                }
+                if (oldest == null) {
+                    break;
+                }
+                remove(oldest.getKey(), oldest.getValue());
+            }
+        }
+        return new PlainData(data, true);
+    }
+
+    /**
+     * Removes an entry, unless it has been replaced in the meantime. Must be called while holding {@link #lock}.
+     *
+     * @param key   the key.
+     * @param entry the entry.
+     */
+    private void remove(@NonNull Key key, @NonNull Entry entry) {
+        if (entries.remove(key, entry)) {
+            totalBytes -= entry.data.length;
+        }
+    }
+
+    /**
+     * Removes the entries which have expired. Must be called while holding {@link #lock}.
+     *
+     * @param now the current {@link System#nanoTime()}.
+     */
+    private void purgeExpired(long now) {
+        for (Iterator<Entry> it = entries.values().iterator(); it.hasNext(); ) {
+            Entry entry = it.next();
+            if (now - entry.expiresAt >= 0) {
+                totalBytes -= entry.data.length;
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes the entries which have expired, so that they do not outlive their TTL when nothing else is decrypted.
+     */
+    void purgeExpired() {
+        if (entries.isEmpty()) {
+            return;
+        }
+        long now = clock.getAsLong();
+        synchronized (lock) {
+            purgeExpired(now);
+        }
+    }
+
+    /**
+     * Drops every entry.
+     */
+    void clear() {
+        synchronized (lock) {
+            generation++;
+            entries.clear();
+            totalBytes = 0;
+        }
+    }
+
+    /**
+     * Counts the entries, expired or not.
+     *
+     * @return the number of entries.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Counts the plain bytes held.
+     *
+     * @return the total length of all entries.
+     */
+    long totalBytes() {
+        synchronized (lock) {
+            return totalBytes;
+        }
+    }
+
+    /**
+     * Sums the lengths of the entries, which must match {@link #totalBytes()}.
+     *
+     * @return the total length of all entries, counted one by one.
+     */
+    long entryBytes() {
+        synchronized (lock) {
+            long sum = 0;
+            for (Entry entry : entries.values()) {
+                sum += entry.data.length;
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * Some plain data, and whether it is shared with the cache.
+     */
+    static final class PlainData {
+
+        /**
+         * The plain data, which must not be modified.
+         */
+        @NonNull
+        final byte[] bytes;
+        /**
+         * Whether {@link #bytes} is held by the cache, and so may be handed to other callers.
+         */
+        final boolean shared;
+
+        PlainData(@NonNull byte[] bytes, boolean shared) {
+            this.bytes = bytes;
+            this.shared = shared;
+        }
+
+        /**
+         * Zeroes the plain data, unless it is shared with the cache.
+         */
+        void wipe() {
+            if (!shared) {
+                Arrays.fill(bytes, (byte) 0);
+            }
+        }
+    }
+
+    /**
+     * Identity key for a {@link SecretBytes}, which avoids hashing the encrypted content on every lookup.
+     */
+    private static final class Key {
+
+        private final SecretBytes secretBytes;
+
+        Key(SecretBytes secretBytes) {
+            this.secretBytes = secretBytes;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && ((Key) o).secretBytes == secretBytes;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(secretBytes);
+        }
+    }
+
+    /**
+     * A cached plain text, with the {@link System#nanoTime()} at which it was last served and at which it expires.
+     */
+    private static final class Entry {
+
+        private final byte[] data;
+        private final long expiresAt;
+        private volatile long lastAccess;
+
+        Entry(byte[] data, long lastAccess, long expiresAt) {
+            this.data = data;
+            this.lastAccess = lastAccess;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Purges expired entries every minute.
+     */
+    @Extension
+    public static final class Purger extends PeriodicWork {
+
+        @Override
+        public long getRecurrencePeriod() {
+            return MIN;
+        }
+
+        @Override
+        protected void doRun() {
+            instance.purgeExpired();
+        }
+    }
+
+    /**
+     * Clears the cache whenever a credentials store, or an object which may own one (a folder or a user), is saved,
+     * which is how credentials get updated or deleted.
+     */
+    @Extension
+    public static final class StoreListener extends SaveableListener {
+
+        @Override
+        public void onChange(Saveable o, XmlFile file) {
+            if (o instanceof SystemCredentialsProvider || o instanceof CredentialsStore || o instanceof ItemGroup
+                    || o instanceof User) {
+                instance.clear();
+            }
+        }
+    }
+
+}
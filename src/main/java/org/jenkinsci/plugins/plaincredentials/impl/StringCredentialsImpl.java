@@ -24,17 +24,24 @@
 
 package org.jenkinsci.plugins.plaincredentials.impl;
 
+import com.cloudbees.plugins.credentials.CredentialsNameProvider;
 import com.cloudbees.plugins.credentials.CredentialsScope;
+import com.cloudbees.plugins.credentials.NameWith;
 import com.cloudbees.plugins.credentials.impl.BaseStandardCredentials;
 import hudson.Extension;
+import hudson.Util;
 import hudson.util.Secret;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import org.jenkinsci.plugins.plaincredentials.ContentDigest;
 import org.jenkinsci.plugins.plaincredentials.StringCredentials;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
 import org.kohsuke.stapler.DataBoundConstructor;
 
 import java.io.Serial;
 
+@NameWith(StringCredentialsImpl.NameProviderImpl.class)
 public final class StringCredentialsImpl extends BaseStandardCredentials implements StringCredentials {
 
     @Serial
@@ -42,6 +49,17 @@ public final class StringCredentialsImpl extends BaseStandardCredentials impleme
 
     private final @NonNull Secret secret;
 
+    /**
+     * Memoized {@link StringCredentials.NameProvider#computeName}, with the empty string standing for {@code null}.
+     * Safe since the description and ID never change.
+     */
+    private transient volatile String computedName;
+
+    /**
+     * Memoized {@link #getSecretDigest}.
+     */
+    private transient volatile String secretDigest;
+
     @DataBoundConstructor public StringCredentialsImpl(@CheckForNull CredentialsScope scope, @CheckForNull String id, @CheckForNull String description, @NonNull Secret secret) {
         super(scope, id, description);
         this.secret = secret;
@@ -51,6 +69,32 @@ public final class StringCredentialsImpl extends BaseStandardCredentials impleme
         return secret;
     }
 
+    @Override public String getSecretDigest() {
+        String digest = secretDigest;
+        if (digest == null) {
+            digest = ContentDigest.of(secret.getPlainText());
+            secretDigest = digest;
+        }
+        return digest;
+    }
+
+    /**
+     * Names credentials like {@link StringCredentials.NameProvider}, reusing the memoized {@link #computedName}.
+     */
+    @Restricted(NoExternalUse.class)
+    public static class NameProviderImpl extends CredentialsNameProvider<StringCredentialsImpl> {
+
+        @Override public String getName(StringCredentialsImpl c) {
+            String name = c.computedName;
+            if (name == null) {
+                name = Util.fixNull(StringCredentials.NameProvider.computeName(c));
+                c.computedName = name;
+            }
+            return StringCredentials.NameProvider.orDefault(Util.fixEmpty(name));
+        }
+
+    }
+
     @Extension public static class DescriptorImpl extends BaseStandardCredentialsDescriptor {
 
         @Override public String getDisplayName() {
@@ -1,5 +1,8 @@
 package org.jenkinsci.plugins.plaincredentials;
 
+import com.cloudbees.plugins.credentials.CredentialsNameProvider;
+import com.cloudbees.plugins.credentials.CredentialsParameterDefinition;
+import com.cloudbees.plugins.credentials.CredentialsParameterValue;
 import com.cloudbees.plugins.credentials.CredentialsProvider;
 import com.cloudbees.plugins.credentials.CredentialsScope;
 import com.cloudbees.plugins.credentials.CredentialsStore;
@@ -7,24 +10,40 @@ import com.cloudbees.plugins.credentials.SecretBytes;
 import com.cloudbees.plugins.credentials.domains.Domain;
 import com.cloudbees.plugins.credentials.impl.BaseStandardCredentials;
 import hudson.model.FileParameterValue;
+import hudson.model.FreeStyleBuild;
+import hudson.model.FreeStyleProject;
+import hudson.model.ParametersAction;
+import hudson.model.ParametersDefinitionProperty;
 import hudson.security.ACL;
 import hudson.util.Secret;
 import org.apache.commons.fileupload.FileItem;
 import org.jenkinsci.plugins.plaincredentials.impl.FileCredentialsImpl;
+import org.jenkinsci.plugins.plaincredentials.impl.PlainDataCache;
 import org.jenkinsci.plugins.plaincredentials.impl.StringCredentialsImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.jvnet.hudson.test.JenkinsRule;
 import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
 
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 @WithJenkins
@@ -49,6 +68,120 @@ class BaseTest {
         testCreateUpdateDelete(credential, updatedCredential);
     }
 
+    @Test
+    void secretTextName() {
+        Secret secret = Secret.fromString("password");
+        assertThat(CredentialsNameProvider.name(new StringCredentialsImpl(CredentialsScope.GLOBAL, CRED_ID, "Test Secret Text", secret)), is("Test Secret Text"));
+        assertThat(CredentialsNameProvider.name(new StringCredentialsImpl(CredentialsScope.GLOBAL, CRED_ID, null, secret)), is(CRED_ID));
+        assertThat(CredentialsNameProvider.name(new StringCredentialsImpl(CredentialsScope.GLOBAL, "0f8fad5b-d9cb-469f-a165-70867728950e", null, secret)), is("Secret text"));
+        assertThat(CredentialsNameProvider.name(new StringCredentialsImpl(CredentialsScope.GLOBAL, "0f8fad5b-d9cb-469f-a165-70867728950", null, secret)), is("0f8fad5b-d9cb-469f-a165-70867728950"));
+        StringCredentialsImpl memoized = new StringCredentialsImpl(CredentialsScope.GLOBAL, CRED_ID, "  Memoized  ", secret);
+        assertThat(CredentialsNameProvider.name(memoized), is("Memoized"));
+        assertThat(CredentialsNameProvider.name(memoized), sameInstance(CredentialsNameProvider.name(memoized)));
+    }
+
+    @Test
+    void secretTextDigest() {
+        StringCredentialsImpl credential = new StringCredentialsImpl(CredentialsScope.GLOBAL, CRED_ID, "Test Secret Text", Secret.fromString("password"));
+        assertThat(credential.getSecretDigest(), is(new StringCredentialsImpl(CredentialsScope.GLOBAL, "other", null, Secret.fromString("password")).getSecretDigest()));
+        assertThat(credential.getSecretDigest(), not(new StringCredentialsImpl(CredentialsScope.GLOBAL, CRED_ID, "Test Secret Text", Secret.fromString("passw0rd")).getSecretDigest()));
+    }
+
+    @Test
+    void concurrentContentReads() throws Exception {
+        byte[] content = new byte[64 * 1024];
+        new Random(42).nextBytes(content);
+        FileCredentialsImpl file = new FileCredentialsImpl(CredentialsScope.GLOBAL, "file", null, "secret.bin", SecretBytes.fromRawBytes(content));
+        StringCredentialsImpl text = new StringCredentialsImpl(CredentialsScope.GLOBAL, "text", null, Secret.fromString("password"));
+        String digest = ContentDigest.of(content);
+        try {
+            // once as is, then served from a cache with room for this content only
+            for (boolean cached : new boolean[] {false, true}) {
+                PlainDataCache.configure(cached, TimeUnit.MINUTES.toMillis(5), content.length);
+                for (int threads : new int[] {1, 16, 256}) {
+                    ExecutorService executor = Executors.newFixedThreadPool(threads);
+                    try {
+                        List<Future<?>> futures = new ArrayList<>();
+                        for (int i = 0; i < threads * 4; i++) {
+                            futures.add(executor.submit(() -> {
+                                try (InputStream in = file.getContent()) {
+                                    assertThat(in.readAllBytes(), is(content));
+                                }
+                                assertThat(file.getContentLength(), is((long) content.length));
+                                assertThat(file.getContentDigest(), is(digest));
+                                assertThat(CredentialsNameProvider.name(file), is("secret.bin"));
+                                assertThat(text.getSecret().getPlainText(), is("password"));
+                                assertThat(CredentialsNameProvider.name(text), is("text"));
+                                return null;
+                            }));
+                        }
+                        for (Future<?> future : futures) {
+                            future.get();
+                        }
+                    } finally {
+                        executor.shutdownNow();
+                    }
+                }
+            }
+        } finally {
+            PlainDataCache.configure(false, 0, 0);
+        }
+    }
+
+    @Test
+    void secretTextBatchLookup() throws Exception {
+        store.addCredentials(Domain.global(), new StringCredentialsImpl(CredentialsScope.GLOBAL, "token-1", null, Secret.fromString("one")));
+        store.addCredentials(Domain.global(), new StringCredentialsImpl(CredentialsScope.GLOBAL, "token-2", null, Secret.fromString("two")));
+        store.addCredentials(Domain.global(), new StringCredentialsImpl(CredentialsScope.GLOBAL, "token-3", null, Secret.fromString("three")));
+
+        Map<String, StringCredentials> found = StringCredentialsLookup.lookup(r.jenkins, ACL.SYSTEM2, List.of("token-1", "token-3", "missing"));
+
+        assertThat(found.keySet(), is(Set.of("token-1", "token-3")));
+        assertThat(found.get("token-1").getSecret().getPlainText(), is("one"));
+        assertThat(found.get("token-3").getSecret().getPlainText(), is("three"));
+    }
+
+    @Test
+    void secretTextBatchLookupInItem() throws Exception {
+        store.addCredentials(Domain.global(), new StringCredentialsImpl(CredentialsScope.GLOBAL, "token-1", null, Secret.fromString("one")));
+        store.addCredentials(Domain.global(), new StringCredentialsImpl(CredentialsScope.GLOBAL, "token-2", null, Secret.fromString("two")));
+        FreeStyleProject p = r.createFreeStyleProject();
+
+        Map<String, StringCredentials> found = StringCredentialsLookup.lookup(p, ACL.SYSTEM2, List.of("token-2", "missing"));
+
+        assertThat(found.keySet(), is(Set.of("token-2")));
+        assertThat(found.get("token-2").getSecret().getPlainText(), is("two"));
+    }
+
+    @Test
+    void secretTextBatchLookupInRun() throws Exception {
+        store.addCredentials(Domain.global(), new StringCredentialsImpl(CredentialsScope.GLOBAL, "token-1", null, Secret.fromString("one")));
+        store.addCredentials(Domain.global(), new StringCredentialsImpl(CredentialsScope.GLOBAL, "token-2", null, Secret.fromString("two")));
+        FreeStyleBuild b = r.buildAndAssertSuccess(r.createFreeStyleProject());
+
+        Map<String, StringCredentials> found = StringCredentialsLookup.lookup(b, List.of("token-1", "token-2", "missing"));
+
+        assertThat(found.keySet(), is(Set.of("token-1", "token-2")));
+        assertThat(found.get("token-1").getSecret().getPlainText(), is("one"));
+        assertThat(found.get("token-2").getSecret().getPlainText(), is("two"));
+    }
+
+    @Test
+    void secretTextBatchLookupThroughParameters() throws Exception {
+        store.addCredentials(Domain.global(), new StringCredentialsImpl(CredentialsScope.GLOBAL, "token-1", null, Secret.fromString("one")));
+        store.addCredentials(Domain.global(), new StringCredentialsImpl(CredentialsScope.GLOBAL, "token-2", null, Secret.fromString("two")));
+        FreeStyleProject p = r.createFreeStyleProject();
+        p.addProperty(new ParametersDefinitionProperty(new CredentialsParameterDefinition("TOKEN", null, "token-1", StringCredentialsImpl.class.getName(), false)));
+        FreeStyleBuild b = r.assertBuildStatusSuccess(p.scheduleBuild2(0, new ParametersAction(new CredentialsParameterValue("TOKEN", "token-2", null))));
+
+        Map<String, StringCredentials> found = StringCredentialsLookup.lookup(b, List.of("TOKEN", "${TOKEN}", "token-1"));
+
+        assertThat(found.keySet(), is(Set.of("TOKEN", "${TOKEN}", "token-1")));
+        assertThat(found.get("TOKEN").getSecret().getPlainText(), is("two"));
+        assertThat(found.get("${TOKEN}").getSecret().getPlainText(), is("two"));
+        assertThat(found.get("token-1").getSecret().getPlainText(), is("one"));
+    }
+
     @Test
     void secretFileBaseTest() throws Exception {
         secretFileTest(false);
@@ -23,10 +23,12 @@
  */
 package org.jenkinsci.plugins.plaincredentials;
 
+import com.cloudbees.plugins.credentials.CredentialsNameProvider;
 import com.cloudbees.plugins.credentials.CredentialsScope;
 import com.cloudbees.plugins.credentials.SecretBytes;
 import org.apache.commons.fileupload.FileItem;
 import org.apache.commons.fileupload.FileItemHeaders;
+import org.apache.commons.io.IOUtils;
 import org.jenkinsci.plugins.plaincredentials.impl.FileCredentialsImpl;
 import org.junit.jupiter.api.Test;
 import org.jvnet.hudson.test.Issue;
@@ -34,10 +36,22 @@ import org.jvnet.hudson.test.JenkinsRule;
 import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @WithJenkins
 class FileCredentialsTest {
@@ -48,8 +62,132 @@ class FileCredentialsTest {
         assertThrows(IllegalArgumentException.class, () -> new FileCredentialsImpl(CredentialsScope.GLOBAL, "1", "", new StubFileItem(), "", SecretBytes.fromString("")));
     }
 
+    @Test
+    void contentLengthMatchesContent(JenkinsRule r) throws Exception {
+        FileCredentialsImpl c = new FileCredentialsImpl(CredentialsScope.GLOBAL, "1", "", "secret.txt",
+                SecretBytes.fromRawBytes("This is a secret\n".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(17, c.getContentLength());
+        assertEquals(17, IOUtils.toByteArray(c.getContent()).length);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void uploadRecordsContentLength(JenkinsRule r) throws Exception {
+        Logger logger = Logger.getLogger(FileCredentialsImpl.class.getName());
+        List<LogRecord> records = new CopyOnWriteArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Level level = logger.getLevel();
+        logger.setLevel(Level.FINE);
+        logger.addHandler(handler);
+        try {
+            byte[] content = "This is a secret\n".getBytes(StandardCharsets.UTF_8);
+            FileCredentialsImpl c1 = new FileCredentialsImpl(CredentialsScope.GLOBAL, "1", "", new StubFileItem("secret.txt", content), null, (SecretBytes) null);
+            FileCredentialsImpl c2 = new FileCredentialsImpl(CredentialsScope.GLOBAL, "2", "", new StubFileItem("secret.txt", content), null, (String) null);
+            // the length was logged at construction time, so it was recorded rather than decrypted
+            assertEquals(2, records.size());
+            for (LogRecord record : records) {
+                assertEquals(17L, record.getParameters()[2]);
+            }
+            assertEquals(17, c1.getContentLength());
+            assertEquals(17, c2.getContentLength());
+        } finally {
+            logger.removeHandler(handler);
+            logger.setLevel(level);
+        }
+    }
+
+    @Test
+    void nameIsMemoized(JenkinsRule r) {
+        SecretBytes secretBytes = SecretBytes.fromRawBytes("This is a secret\n".getBytes(StandardCharsets.UTF_8));
+        FileCredentialsImpl c = new FileCredentialsImpl(CredentialsScope.GLOBAL, "1", " Some secret file ", "secret.txt", secretBytes);
+        assertEquals("secret.txt (Some secret file)", CredentialsNameProvider.name(c));
+        assertSame(CredentialsNameProvider.name(c), CredentialsNameProvider.name(c));
+        assertEquals("secret.txt", CredentialsNameProvider.name(new FileCredentialsImpl(CredentialsScope.GLOBAL, "2", "", "secret.txt", secretBytes)));
+    }
+
+    @Test
+    void contentIsReadLazily(JenkinsRule r) throws Exception {
+        FileCredentialsImpl c = new FileCredentialsImpl(CredentialsScope.GLOBAL, "1", "", "secret.txt",
+                SecretBytes.fromRawBytes("This is a secret\n".getBytes(StandardCharsets.UTF_8)));
+        try (InputStream is = c.getContent()) {
+            assertEquals(17, is.available());
+            assertEquals(5, is.skip(5));
+            assertEquals(12, is.available());
+            assertEquals("is a secret\n", IOUtils.toString(is, StandardCharsets.UTF_8));
+            assertEquals(0, is.available());
+        }
+        try (InputStream is = c.getContent()) {
+            assertTrue(is.markSupported());
+            // marked before the first read, so reset goes back to the start
+            is.mark(17);
+            assertEquals(5, is.skip(5));
+            is.reset();
+            assertEquals("This ", new String(is.readNBytes(5), StandardCharsets.UTF_8));
+            is.mark(12);
+            assertEquals("is a", new String(is.readNBytes(4), StandardCharsets.UTF_8));
+            is.reset();
+            assertEquals("is a secret\n", IOUtils.toString(is, StandardCharsets.UTF_8));
+        }
+        InputStream unread = c.getContent();
+        unread.close();
+        assertThrows(IOException.class, unread::available);
+    }
+
+    @Test
+    void contentIsReleasedOnClose(JenkinsRule r) throws Exception {
+        FileCredentialsImpl c = new FileCredentialsImpl(CredentialsScope.GLOBAL, "1", "", "secret.txt",
+                SecretBytes.fromRawBytes("This is a secret\n".getBytes(StandardCharsets.UTF_8)));
+        InputStream is = c.getContent();
+        assertEquals('T', is.read());
+        is.close();
+        assertThrows(IOException.class, is::read);
+        try (InputStream again = c.getContent()) {
+            assertEquals("This is a secret\n", IOUtils.toString(again, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void contentDigestDetectsChanges(JenkinsRule r) throws Exception {
+        FileCredentialsImpl c1 = new FileCredentialsImpl(CredentialsScope.GLOBAL, "1", "", "secret.txt",
+                SecretBytes.fromRawBytes("This is a secret\n".getBytes(StandardCharsets.UTF_8)));
+        FileCredentialsImpl c2 = new FileCredentialsImpl(CredentialsScope.GLOBAL, "2", "", "other.txt",
+                SecretBytes.fromRawBytes("This is a secret\n".getBytes(StandardCharsets.UTF_8)));
+        FileCredentialsImpl c3 = new FileCredentialsImpl(CredentialsScope.GLOBAL, "1", "", "secret.txt",
+                SecretBytes.fromRawBytes("This is another secret\n".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(c1.getContentDigest(), c2.getContentDigest());
+        assertNotEquals(c1.getContentDigest(), c3.getContentDigest());
+        try (InputStream is = c1.getContent()) {
+            assertEquals(c1.getContentDigest(), ContentDigest.of(is));
+        }
+    }
+
     private static class StubFileItem implements FileItem {
 
+        private final String name;
+        private final byte[] content;
+
+        StubFileItem() {
+            this("", new byte[0]);
+        }
+
+        StubFileItem(String name, byte[] content) {
+            this.name = name;
+            this.content = content;
+        }
+
         @Override
         public InputStream getInputStream() {
             return null;
@@ -62,7 +200,7 @@ class FileCredentialsTest {
 
         @Override
         public String getName() {
-            return "";
+            return name;
         }
 
         @Override
@@ -72,12 +210,12 @@ class FileCredentialsTest {
 
         @Override
         public long getSize() {
-            return 0;
+            return content.length;
         }
 
         @Override
         public byte[] get() {
-            return new byte[0];
+            return content;
         }
 
         @Override
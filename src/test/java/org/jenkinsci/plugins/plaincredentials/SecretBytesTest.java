@@ -34,6 +34,9 @@ import hudson.security.ACL;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.jenkinsci.plugins.plaincredentials.impl.FileCredentialsImpl;
+import org.jenkinsci.plugins.plaincredentials.impl.LegacyDataMigration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.jvnet.hudson.test.JenkinsRule;
@@ -44,6 +47,12 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
 
 import static hudson.cli.CLICommandInvoker.Matcher.succeededSilently;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -53,8 +62,39 @@ import static org.junit.jupiter.api.Assumptions.assumeTrue;
 @WithJenkins
 class SecretBytesTest {
 
+    /**
+     * Strong reference, so that our handler stays registered.
+     */
+    private static final Logger MIGRATION_LOGGER = Logger.getLogger(LegacyDataMigration.class.getName());
+    private static final List<LogRecord> MIGRATION_RECORDS = new CopyOnWriteArrayList<>();
+    private static final Handler MIGRATION_HANDLER = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+            MIGRATION_RECORDS.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
     private JenkinsRule r;
 
+    @BeforeAll
+    static void recordMigration() {
+        // Jenkins, and so the migration, starts before any @BeforeEach
+        MIGRATION_LOGGER.addHandler(MIGRATION_HANDLER);
+    }
+
+    @AfterAll
+    static void stopRecordingMigration() {
+        MIGRATION_LOGGER.removeHandler(MIGRATION_HANDLER);
+    }
+
     @BeforeEach
     void setup(JenkinsRule rule) {
         r = rule;
@@ -109,9 +149,9 @@ class SecretBytesTest {
     @Test
     @LocalData
     void migrateLegacyData() throws Exception {
-        // first check that the file on disk contains the legacy format
+        // the file on disk contained the legacy format, but has been persisted in the new format during startup
         assertThat(FileUtils.readFileToString(new File(r.jenkins.getRootDir(), "credentials.xml"), StandardCharsets.UTF_8),
-                allOf(containsString("</data>"), not(containsString("</secretBytes>"))));
+                allOf(not(containsString("</data>")), containsString("</secretBytes>")));
 
         // get the credential instance under test
         FileCredentials c = CredentialsMatchers.firstOrNull(
@@ -132,10 +172,14 @@ class SecretBytesTest {
         // now check that the content has been converted
         assertThat(IOUtils.toString(c.getContent(), StandardCharsets.UTF_8), is("This is a secret file from legacy encryption\n"));
 
-        // now when we re-save the credentials this should persist in the new format
-        SystemCredentialsProvider.getInstance().save();
-        assertThat(FileUtils.readFileToString(new File(r.jenkins.getRootDir(), "credentials.xml"), StandardCharsets.UTF_8),
-                allOf(not(containsString("</data>")), containsString("</secretBytes>")));
+        // and that the conversion was done, and persisted, by the initializer
+        LogRecord migration = MIGRATION_RECORDS.stream()
+                .filter(record -> record.getLevel() == Level.INFO && record.getMessage().startsWith("Migrated "))
+                .findFirst()
+                .orElse(null);
+        assertThat(migration, notNullValue());
+        assertThat((Integer) migration.getParameters()[0], is(1));
+        assertThat((Integer) migration.getParameters()[2], is(1));
     }
 
     @Test
@@ -0,0 +1,100 @@
+package org.jenkinsci.plugins.plaincredentials.benchmark;
+
+import com.cloudbees.plugins.credentials.CredentialsScope;
+import com.cloudbees.plugins.credentials.SecretBytes;
+import hudson.util.Secret;
+import jenkins.benchmark.jmh.JmhBenchmark;
+import jenkins.benchmark.jmh.JmhBenchmarkState;
+import org.jenkinsci.plugins.plaincredentials.impl.FileCredentialsImpl;
+import org.jenkinsci.plugins.plaincredentials.impl.PlainDataCache;
+import org.jenkinsci.plugins.plaincredentials.impl.StringCredentialsImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full reads of the same {@link StringCredentialsImpl} and {@link FileCredentialsImpl} from 1, 16 and 256 threads,
+ * with and without the {@link PlainDataCache}.
+ */
+@JmhBenchmark
+public class ConcurrentReadBenchmark {
+
+    public static class ReadState extends JmhBenchmarkState {
+
+        @Param({"1024", "1048576"})
+        public int size;
+
+        @Param({"false", "true"})
+        public boolean cached;
+
+        StringCredentialsImpl stringCredentials;
+        FileCredentialsImpl fileCredentials;
+
+        @Override
+        public void setup() {
+            PlainDataCache.configure(cached, TimeUnit.MINUTES.toMillis(5), 64L * 1024 * 1024);
+            Random random = new Random(42);
+            char[] chars = new char[size];
+            for (int i = 0; i < size; i++) {
+                chars[i] = (char) ('a' + random.nextInt(26));
+            }
+            byte[] content = new byte[size];
+            random.nextBytes(content);
+            stringCredentials = new StringCredentialsImpl(CredentialsScope.GLOBAL, "string", "benchmark", Secret.fromString(new String(chars)));
+            fileCredentials = new FileCredentialsImpl(CredentialsScope.GLOBAL, "file", "benchmark", "secret.bin", SecretBytes.fromRawBytes(content));
+        }
+
+        @Override
+        public void tearDown() {
+            PlainDataCache.configure(false, 0, 0);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long getContent1(ReadState state) throws IOException {
+        return readFile(state);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long getContent16(ReadState state) throws IOException {
+        return readFile(state);
+    }
+
+    @Benchmark
+    @Threads(256)
+    public long getContent256(ReadState state) throws IOException {
+        return readFile(state);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String getSecret1(ReadState state) {
+        return state.stringCredentials.getSecret().getPlainText();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String getSecret16(ReadState state) {
+        return state.stringCredentials.getSecret().getPlainText();
+    }
+
+    @Benchmark
+    @Threads(256)
+    public String getSecret256(ReadState state) {
+        return state.stringCredentials.getSecret().getPlainText();
+    }
+
+    private static long readFile(ReadState state) throws IOException {
+        try (InputStream is = state.fileCredentials.getContent()) {
+            return is.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.jenkinsci.plugins.plaincredentials.benchmark;
+
+import com.cloudbees.plugins.credentials.CredentialsScope;
+import com.cloudbees.plugins.credentials.SecretBytes;
+import hudson.util.Secret;
+import jenkins.benchmark.jmh.JmhBenchmark;
+import jenkins.benchmark.jmh.JmhBenchmarkState;
+import org.jenkinsci.plugins.plaincredentials.impl.FileCredentialsImpl;
+import org.jenkinsci.plugins.plaincredentials.impl.StringCredentialsImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+
+/**
+ * Construction and full reads of {@link StringCredentialsImpl} and {@link FileCredentialsImpl} at various sizes.
+ */
+@JmhBenchmark
+public class CredentialsContentBenchmark {
+
+    public static class ContentState extends JmhBenchmarkState {
+
+        @Param({"1024", "1048576", "104857600"})
+        public int size;
+
+        String text;
+        byte[] content;
+        StringCredentialsImpl stringCredentials;
+        FileCredentialsImpl fileCredentials;
+
+        @Override
+        public void setup() {
+            Random random = new Random(42);
+            char[] chars = new char[size];
+            for (int i = 0; i < size; i++) {
+                chars[i] = (char) ('a' + random.nextInt(26));
+            }
+            text = new String(chars);
+            content = new byte[size];
+            random.nextBytes(content);
+            stringCredentials = new StringCredentialsImpl(CredentialsScope.GLOBAL, "string", "benchmark", Secret.fromString(text));
+            fileCredentials = new FileCredentialsImpl(CredentialsScope.GLOBAL, "file", "benchmark", "secret.bin", SecretBytes.fromRawBytes(content));
+        }
+    }
+
+    @Benchmark
+    public StringCredentialsImpl constructString(ContentState state) {
+        return new StringCredentialsImpl(CredentialsScope.GLOBAL, "string", "benchmark", Secret.fromString(state.text));
+    }
+
+    @Benchmark
+    public FileCredentialsImpl constructFile(ContentState state) {
+        return new FileCredentialsImpl(CredentialsScope.GLOBAL, "file", "benchmark", "secret.bin", SecretBytes.fromRawBytes(state.content));
+    }
+
+    @Benchmark
+    public String readString(ContentState state) {
+        return state.stringCredentials.getSecret().getPlainText();
+    }
+
+    @Benchmark
+    public long readFile(ContentState state) throws IOException {
+        try (InputStream is = state.fileCredentials.getContent()) {
+            return is.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.jenkinsci.plugins.plaincredentials.benchmark;
+
+import com.cloudbees.plugins.credentials.Credentials;
+import com.cloudbees.plugins.credentials.CredentialsScope;
+import com.cloudbees.plugins.credentials.SecretBytes;
+import hudson.util.Secret;
+import jenkins.benchmark.jmh.JmhBenchmark;
+import jenkins.benchmark.jmh.JmhBenchmarkState;
+import jenkins.model.Jenkins;
+import jenkins.security.CryptoConfidentialKey;
+import org.jenkinsci.plugins.plaincredentials.impl.FileCredentialsImpl;
+import org.jenkinsci.plugins.plaincredentials.impl.StringCredentialsImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * XStream round-trips of a store of 10k credentials, and the {@code readResolve} migration of legacy file credentials.
+ */
+@JmhBenchmark
+public class CredentialsSerializationBenchmark {
+
+    public static class StoreState extends JmhBenchmarkState {
+
+        List<Credentials> credentials;
+        String xml;
+        String legacyXml;
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public void setup() throws Exception {
+            credentials = new ArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                credentials.add(new StringCredentialsImpl(CredentialsScope.GLOBAL, "string-" + i, "secret text " + i,
+                        Secret.fromString("secret-" + i)));
+                credentials.add(new FileCredentialsImpl(CredentialsScope.GLOBAL, "file-" + i, "secret file " + i,
+                        "secret-" + i + ".txt", SecretBytes.fromRawBytes(("secret file " + i + "\n").getBytes(StandardCharsets.UTF_8))));
+            }
+            xml = Jenkins.XSTREAM2.toXML(credentials);
+
+            // same key as FileCredentialsImpl.KEY used before 1.3
+            byte[] data = new CryptoConfidentialKey(FileCredentialsImpl.class.getName()).encrypt()
+                    .doFinal("This is a secret file from legacy encryption\n".getBytes(StandardCharsets.UTF_8));
+            legacyXml = """
+                    <org.jenkinsci.plugins.plaincredentials.impl.FileCredentialsImpl>
+                      <scope>GLOBAL</scope>
+                      <id>legacyData</id>
+                      <description>credential using legacy data format</description>
+                      <fileName>secret.txt</fileName>
+                      <data>%s</data>
+                    </org.jenkinsci.plugins.plaincredentials.impl.FileCredentialsImpl>
+                    """.formatted(Base64.getEncoder().encodeToString(data));
+        }
+    }
+
+    @Benchmark
+    public String storeToXml(StoreState state) {
+        return Jenkins.XSTREAM2.toXML(state.credentials);
+    }
+
+    @Benchmark
+    public Object storeFromXml(StoreState state) {
+        return Jenkins.XSTREAM2.fromXML(state.xml);
+    }
+
+    @Benchmark
+    public Object legacyMigration(StoreState state) {
+        return Jenkins.XSTREAM2.fromXML(state.legacyXml);
+    }
+}
@@ -0,0 +1,42 @@
+package org.jenkinsci.plugins.plaincredentials.benchmark;
+
+import com.cloudbees.plugins.credentials.CredentialsScope;
+import com.cloudbees.plugins.credentials.SecretBytes;
+import com.cloudbees.plugins.credentials.common.StandardListBoxModel;
+import hudson.util.ListBoxModel;
+import jenkins.benchmark.jmh.JmhBenchmark;
+import jenkins.benchmark.jmh.JmhBenchmarkState;
+import org.jenkinsci.plugins.plaincredentials.FileCredentials;
+import org.jenkinsci.plugins.plaincredentials.impl.FileCredentialsImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rendering a list box of 10k file credentials.
+ */
+@JmhBenchmark
+public class FileCredentialsListBenchmark {
+
+    public static class CredentialsState extends JmhBenchmarkState {
+
+        List<FileCredentials> credentials;
+
+        @Override
+        public void setup() {
+            credentials = new ArrayList<>();
+            SecretBytes secretBytes = SecretBytes.fromRawBytes("secret\n".getBytes(StandardCharsets.UTF_8));
+            for (int i = 0; i < 10000; i++) {
+                credentials.add(new FileCredentialsImpl(CredentialsScope.GLOBAL, "file-" + i, i % 2 == 0 ? "kubeconfig " + i : null,
+                        "kubeconfig-" + i + ".yaml", secretBytes));
+            }
+        }
+    }
+
+    @Benchmark
+    public ListBoxModel fillListBox(CredentialsState state) {
+        return new StandardListBoxModel().with(state.credentials);
+    }
+}
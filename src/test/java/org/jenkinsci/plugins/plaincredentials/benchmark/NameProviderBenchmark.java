@@ -0,0 +1,104 @@
+package org.jenkinsci.plugins.plaincredentials.benchmark;
+
+import com.cloudbees.plugins.credentials.CredentialsScope;
+import com.cloudbees.plugins.credentials.impl.BaseStandardCredentials;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Util;
+import hudson.util.Secret;
+import jenkins.benchmark.jmh.JmhBenchmark;
+import jenkins.benchmark.jmh.JmhBenchmarkState;
+import org.jenkinsci.plugins.plaincredentials.StringCredentials;
+import org.jenkinsci.plugins.plaincredentials.impl.StringCredentialsImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Display names of a list of credentials with a mix of UUID and non-UUID IDs.
+ * {@link #getName} and {@link #getNameWithUUIDFromString} compare the UUID matcher against the previous
+ * exception-based check on credentials without memoization; {@link #getNameMemoized} shows the memoized path of
+ * {@link StringCredentialsImpl}.
+ */
+@JmhBenchmark
+public class NameProviderBenchmark {
+
+    private static final StringCredentials.NameProvider NAME_PROVIDER = new StringCredentials.NameProvider();
+    private static final StringCredentialsImpl.NameProviderImpl NAME_PROVIDER_IMPL = new StringCredentialsImpl.NameProviderImpl();
+
+    public static class CredentialsState extends JmhBenchmarkState {
+
+        List<StringCredentials> credentials;
+        List<StringCredentialsImpl> credentialsImpl;
+
+        @Override
+        public void setup() {
+            credentials = new ArrayList<>();
+            credentialsImpl = new ArrayList<>();
+            Secret secret = Secret.fromString("secret");
+            for (int i = 0; i < 1000; i++) {
+                String id = i % 2 == 0 ? UUID.randomUUID().toString() : "deploy-token-" + i;
+                credentials.add(new PlainStringCredentials(id, secret));
+                credentialsImpl.add(new StringCredentialsImpl(CredentialsScope.GLOBAL, id, null, secret));
+            }
+        }
+    }
+
+    @Benchmark
+    public void getName(CredentialsState state, Blackhole blackhole) {
+        for (StringCredentials c : state.credentials) {
+            blackhole.consume(NAME_PROVIDER.getName(c));
+        }
+    }
+
+    @Benchmark
+    public void getNameWithUUIDFromString(CredentialsState state, Blackhole blackhole) {
+        for (StringCredentials c : state.credentials) {
+            blackhole.consume(legacyName(c));
+        }
+    }
+
+    @Benchmark
+    public void getNameMemoized(CredentialsState state, Blackhole blackhole) {
+        for (StringCredentialsImpl c : state.credentialsImpl) {
+            blackhole.consume(NAME_PROVIDER_IMPL.getName(c));
+        }
+    }
+
+    /**
+     * The name as computed before UUID detection stopped relying on exceptions, for comparison.
+     */
+    private static String legacyName(StringCredentials c) {
+        String description = Util.fixEmptyAndTrim(c.getDescription());
+        String ID = c.getId();
+        boolean uuid;
+        try {
+            UUID.fromString(ID);
+            uuid = true;
+        } catch (IllegalArgumentException ex) {
+            uuid = false;
+        }
+        return description != null ? description : (!uuid ? ID : "Secret text");
+    }
+
+    /**
+     * A {@link StringCredentials} which does not memoize its name.
+     */
+    private static final class PlainStringCredentials extends BaseStandardCredentials implements StringCredentials {
+
+        private final Secret secret;
+
+        PlainStringCredentials(String id, Secret secret) {
+            super(CredentialsScope.GLOBAL, id, null);
+            this.secret = secret;
+        }
+
+        @NonNull
+        @Override
+        public Secret getSecret() {
+            return secret;
+        }
+    }
+}
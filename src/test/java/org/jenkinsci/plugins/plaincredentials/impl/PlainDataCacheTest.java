@@ -0,0 +1,211 @@
+package org.jenkinsci.plugins.plaincredentials.impl;
+
+import com.cloudbees.plugins.credentials.CredentialsProvider;
+import com.cloudbees.plugins.credentials.CredentialsScope;
+import com.cloudbees.plugins.credentials.CredentialsStore;
+import com.cloudbees.plugins.credentials.SecretBytes;
+import com.cloudbees.plugins.credentials.domains.Domain;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+@WithJenkins
+class PlainDataCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @AfterEach
+    void disable() {
+        PlainDataCache.configure(false, 0, 0);
+    }
+
+    @Test
+    void disabled(JenkinsRule r) {
+        PlainDataCache cache = new PlainDataCache(false, 1000, 1024, clock::get);
+        SecretBytes secretBytes = secretBytes("secret");
+        PlainDataCache.PlainData plain = cache.getPlainData(secretBytes);
+        assertThat(plain.shared, is(false));
+        assertThat(plain.bytes, not(sameInstance(cache.getPlainData(secretBytes).bytes)));
+        assertThat(cache.size(), is(0));
+        plain.wipe();
+        assertThat(plain.bytes, is(new byte[6]));
+    }
+
+    @Test
+    void expiry(JenkinsRule r) {
+        PlainDataCache cache = new PlainDataCache(true, 1000, 1024, clock::get);
+        SecretBytes secretBytes = secretBytes("secret");
+        PlainDataCache.PlainData plain = cache.getPlainData(secretBytes);
+        assertThat(plain.shared, is(true));
+        byte[] first = plain.bytes;
+        plain.wipe();
+        assertThat(first, is("secret".getBytes(StandardCharsets.UTF_8)));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertThat(cache.getPlainData(secretBytes).bytes, sameInstance(first));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        byte[] second = cache.getPlainData(secretBytes).bytes;
+        assertThat(second, not(sameInstance(first)));
+        assertThat(second, is(first));
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    void expiredEntriesArePurgedOnPut(JenkinsRule r) {
+        PlainDataCache cache = new PlainDataCache(true, 1000, 1024, clock::get);
+        cache.getPlainData(secretBytes("deleted"));
+        cache.getPlainData(secretBytes("replaced"));
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        cache.getPlainData(secretBytes("other"));
+        assertThat(cache.size(), is(1));
+        assertThat(cache.totalBytes(), is(5L));
+    }
+
+    @Test
+    void expiredEntriesArePurgedPeriodically(JenkinsRule r) {
+        PlainDataCache cache = new PlainDataCache(true, 1000, 1024, clock::get);
+        cache.getPlainData(secretBytes("deleted"));
+        cache.purgeExpired();
+        assertThat(cache.size(), is(1));
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        cache.purgeExpired();
+        assertThat(cache.size(), is(0));
+        assertThat(cache.totalBytes(), is(0L));
+    }
+
+    @Test
+    void notCachedWhenClearedDuringDecrypt(JenkinsRule r) {
+        AtomicReference<PlainDataCache> cache = new AtomicReference<>();
+        // the clock is read after decrypting, which is when a store change can sneak in
+        cache.set(new PlainDataCache(true, 1000, 1024, () -> {
+            cache.get().clear();
+            return clock.get();
+        }));
+        PlainDataCache.PlainData plain = cache.get().getPlainData(secretBytes("deleted"));
+        assertThat(plain.shared, is(false));
+        assertThat(cache.get().size(), is(0));
+        assertThat(cache.get().totalBytes(), is(0L));
+    }
+
+    @Test
+    void byteBound(JenkinsRule r) {
+        PlainDataCache cache = new PlainDataCache(true, 1000, 10, clock::get);
+        SecretBytes a = secretBytes("aaaaaa");
+        SecretBytes b = secretBytes("bbbbbb");
+        byte[] first = cache.getPlainData(a).bytes;
+        cache.getPlainData(b);
+        // a was the least recently used, so it made room for b
+        assertThat(cache.size(), is(1));
+        assertThat(cache.totalBytes(), is(6L));
+        assertThat(cache.getPlainData(a).bytes, not(sameInstance(first)));
+        // larger than the bound on its own, so never cached, and so wiped by its caller
+        cache.clear();
+        PlainDataCache.PlainData oversize = cache.getPlainData(secretBytes("ccccccccccc"));
+        assertThat(oversize.shared, is(false));
+        assertThat(cache.size(), is(0));
+        assertThat(cache.totalBytes(), is(0L));
+        oversize.wipe();
+        assertThat(oversize.bytes, is(new byte[11]));
+    }
+
+    @Test
+    void leastRecentlyReadIsEvictedFirst(JenkinsRule r) {
+        PlainDataCache cache = new PlainDataCache(true, 1000, 10, clock::get);
+        SecretBytes a = secretBytes("aaa");
+        SecretBytes b = secretBytes("bbb");
+        byte[] first = cache.getPlainData(a).bytes;
+        clock.incrementAndGet();
+        cache.getPlainData(b);
+        clock.incrementAndGet();
+        // a hit refreshes a, so b is now the least recently read
+        assertThat(cache.getPlainData(a).bytes, sameInstance(first));
+        clock.incrementAndGet();
+        cache.getPlainData(secretBytes("ccccc"));
+        assertThat(cache.size(), is(2));
+        assertThat(cache.totalBytes(), is(8L));
+        assertThat(cache.getPlainData(a).bytes, sameInstance(first));
+    }
+
+    @Test
+    void concurrentReadsWithEviction(JenkinsRule r) throws Exception {
+        // room for two of the four files, so that concurrent readers keep evicting each other
+        PlainDataCache.configure(true, TimeUnit.MINUTES.toMillis(5), 160 * 1024);
+        try {
+            Random random = new Random(42);
+            List<byte[]> contents = new ArrayList<>();
+            List<FileCredentialsImpl> files = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                byte[] content = new byte[64 * 1024];
+                random.nextBytes(content);
+                contents.add(content);
+                files.add(new FileCredentialsImpl(CredentialsScope.GLOBAL, "file-" + i, null, "secret.bin", SecretBytes.fromRawBytes(content)));
+            }
+            for (int threads : new int[] {1, 16, 256}) {
+                ExecutorService executor = Executors.newFixedThreadPool(threads);
+                try {
+                    List<Future<?>> futures = new ArrayList<>();
+                    for (int i = 0; i < threads * 4; i++) {
+                        int index = i % files.size();
+                        futures.add(executor.submit(() -> {
+                            try (InputStream in = files.get(index).getContent()) {
+                                assertThat(in.readAllBytes(), is(contents.get(index)));
+                            }
+                            return null;
+                        }));
+                    }
+                    for (Future<?> future : futures) {
+                        future.get();
+                    }
+                } finally {
+                    executor.shutdownNow();
+                }
+                PlainDataCache cache = PlainDataCache.get();
+                assertThat(cache.size(), greaterThan(0));
+                assertThat(cache.totalBytes(), is(cache.entryBytes()));
+                assertThat(cache.totalBytes(), lessThanOrEqualTo(160L * 1024));
+            }
+        } finally {
+            PlainDataCache.configure(false, 0, 0);
+        }
+    }
+
+    @Test
+    void evictedWhenStoreChanges(JenkinsRule r) throws Exception {
+        PlainDataCache.configure(true, TimeUnit.MINUTES.toMillis(5), 1024);
+        CredentialsStore store = CredentialsProvider.lookupStores(r.jenkins).iterator().next();
+        FileCredentialsImpl credentials = new FileCredentialsImpl(CredentialsScope.GLOBAL, "secret-file", null, "secret.txt", secretBytes("secret"));
+        store.addCredentials(Domain.global(), credentials);
+        try (InputStream is = credentials.getContent()) {
+            assertThat(IOUtils.toString(is, StandardCharsets.UTF_8), is("secret"));
+        }
+        assertThat(PlainDataCache.get().size(), is(1));
+
+        store.removeCredentials(Domain.global(), credentials);
+
+        assertThat(PlainDataCache.get().size(), is(0));
+    }
+
+    private static SecretBytes secretBytes(String content) {
+        return SecretBytes.fromRawBytes(content.getBytes(StandardCharsets.UTF_8));
+    }
+}